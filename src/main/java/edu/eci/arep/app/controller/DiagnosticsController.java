@@ -0,0 +1,30 @@
+package edu.eci.arep.app.controller;
+
+import edu.eci.arep.app.diagnostics.RequestTrace;
+import edu.eci.arep.app.diagnostics.SlowRequestLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/diagnostics")
+@ConditionalOnProperty(name = "diagnostics.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsController {
+
+    private final SlowRequestLog slowRequestLog;
+
+    public DiagnosticsController(SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @GetMapping("/slow-requests")
+    public List<RequestTrace> getSlowRequests() {
+        return slowRequestLog.getTraces();
+    }
+
+    @DeleteMapping("/slow-requests")
+    public void clearSlowRequests() {
+        slowRequestLog.clear();
+    }
+}
@@ -1,13 +1,19 @@
 package edu.eci.arep.app.controller;
 
 import edu.eci.arep.app.dto.PropertyDTO;
+import edu.eci.arep.app.dto.PropertyLookupDTO;
 import edu.eci.arep.app.model.Property;
 import edu.eci.arep.app.service.PropertyService;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @RestController
@@ -15,6 +21,10 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 public class PropertyController {
 
+    static final int MAX_LOOKUP_IDS = 200;
+    // Tolera algunos ids repetidos, pero acota el cuerpo antes de recorrerlo
+    static final int MAX_LOOKUP_REQUEST_SIZE = MAX_LOOKUP_IDS * 2;
+
     private final PropertyService propertyService;
 
     public PropertyController(PropertyService propertyService) {
@@ -36,6 +46,42 @@ public class PropertyController {
         return convertToDTO(property);
     }
 
+    @PostMapping("/lookup")
+    public PropertyLookupDTO lookup(@RequestBody List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one id is required");
+        }
+        if (ids.size() > MAX_LOOKUP_REQUEST_SIZE) {
+            throw tooManyIds();
+        }
+        // Se eliminan duplicados conservando el orden de la petición
+        Set<Long> uniqueIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Ids must not be null");
+            }
+            if (uniqueIds.add(id) && uniqueIds.size() > MAX_LOOKUP_IDS) {
+                throw tooManyIds();
+            }
+        }
+
+        Map<Long, Property> found = propertyService.getPropertiesByIds(uniqueIds)
+                .stream()
+                .collect(Collectors.toMap(Property::getId, Function.identity()));
+
+        List<PropertyDTO> properties = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            Property property = found.get(id);
+            if (property != null) {
+                properties.add(convertToDTO(property));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new PropertyLookupDTO(properties, missingIds);
+    }
+
     @PostMapping
     public PropertyDTO create(@RequestBody PropertyDTO dto) {
         if (dto.getPrice() == null || dto.getPrice() <= 0) {
@@ -74,6 +120,11 @@ public class PropertyController {
         propertyService.deleteProperty(id);
     }
 
+    private static ResponseStatusException tooManyIds() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "At most " + MAX_LOOKUP_IDS + " ids are allowed per lookup");
+    }
+
     private PropertyDTO convertToDTO(Property property) {
         return new PropertyDTO(
                 property.getId(),
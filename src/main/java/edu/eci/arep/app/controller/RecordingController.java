@@ -0,0 +1,35 @@
+package edu.eci.arep.app.controller;
+
+import edu.eci.arep.app.diagnostics.JfrRecordingService;
+import edu.eci.arep.app.diagnostics.RecordingSnapshot;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/diagnostics/recording")
+@ConditionalOnProperty(name = "diagnostics.recording.enabled", havingValue = "true")
+public class RecordingController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    public RecordingController(JfrRecordingService jfrRecordingService) {
+        this.jfrRecordingService = jfrRecordingService;
+    }
+
+    @GetMapping
+    public RecordingSnapshot getRecording() {
+        return jfrRecordingService.snapshot();
+    }
+
+    @PostMapping
+    public RecordingSnapshot startRecording() {
+        jfrRecordingService.start();
+        return jfrRecordingService.snapshot();
+    }
+
+    @DeleteMapping
+    public RecordingSnapshot stopRecording() {
+        jfrRecordingService.stop();
+        return jfrRecordingService.snapshot();
+    }
+}
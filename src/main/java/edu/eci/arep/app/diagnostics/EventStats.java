@@ -0,0 +1,52 @@
+package edu.eci.arep.app.diagnostics;
+
+import java.time.Duration;
+
+/**
+ * Acumulado de un tipo de evento JFR (por ejemplo, una capa y operación o una sentencia SQL).
+ * El hilo de la grabación escribe mientras las peticiones HTTP leen, por eso todo acceso va sincronizado.
+ */
+public class EventStats {
+
+    private final String type;
+    private final String name;
+    private long count;
+    private double totalMillis;
+    private double maxMillis;
+
+    public EventStats(String type, String name) {
+        this.type = type;
+        this.name = name;
+    }
+
+    synchronized void record(Duration duration) {
+        double millis = duration.toNanos() / 1_000_000.0;
+        count++;
+        totalMillis += millis;
+        maxMillis = Math.max(maxMillis, millis);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public synchronized double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public synchronized double getAvgMillis() {
+        return count == 0 ? 0 : totalMillis / count;
+    }
+}
@@ -0,0 +1,80 @@
+package edu.eci.arep.app.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Graba en streaming los eventos JFR de la aplicación (peticiones, capas, SQL) junto con las pausas
+ * del GC y los acumula en memoria para consultarlos desde /api/diagnostics/recording.
+ * Solo existe con diagnostics.recording.enabled=true; mientras no hay grabación activa los eventos no tienen costo.
+ */
+@Service
+@ConditionalOnProperty(name = "diagnostics.recording.enabled", havingValue = "true")
+public class JfrRecordingService {
+
+    private final Map<String, EventStats> stats = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+    private Instant startedAt;
+
+    public synchronized boolean start() {
+        if (stream != null) {
+            return false;
+        }
+        stats.clear();
+        stream = new RecordingStream();
+        stream.enable(RequestEvent.class);
+        stream.enable(LayerCallEvent.class);
+        stream.enable(SqlEvent.class);
+        stream.enable("jdk.GarbageCollection");
+        stream.onEvent("edu.eci.arep.Request",
+                event -> record("request", event.getString("method") + " " + event.getString("path"),
+                        event.getDuration()));
+        stream.onEvent("edu.eci.arep.LayerCall",
+                event -> record(event.getString("layer"), event.getString("operation"), event.getDuration()));
+        stream.onEvent("edu.eci.arep.Sql",
+                event -> record("jdbc", String.valueOf(event.getString("sql")), event.getDuration()));
+        stream.onEvent("jdk.GarbageCollection", this::recordGc);
+        stream.startAsync();
+        startedAt = Instant.now();
+        return true;
+    }
+
+    public synchronized boolean stop() {
+        if (stream == null) {
+            return false;
+        }
+        stream.close();
+        stream = null;
+        return true;
+    }
+
+    public synchronized RecordingSnapshot snapshot() {
+        List<EventStats> events = new ArrayList<>(stats.values());
+        events.sort(Comparator.comparingDouble(EventStats::getTotalMillis).reversed());
+        return new RecordingSnapshot(stream != null, startedAt, events);
+    }
+
+    @PreDestroy
+    void close() {
+        stop();
+    }
+
+    private void recordGc(RecordedEvent event) {
+        record("gc", event.getString("name"), event.getDuration("sumOfPauses"));
+    }
+
+    private void record(String type, String name, Duration duration) {
+        stats.computeIfAbsent(type + " " + name, key -> new EventStats(type, name)).record(duration);
+    }
+}
@@ -0,0 +1,27 @@
+package edu.eci.arep.app.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por llamada a PropertyController, PropertyService o PropertyRepository.
+ */
+@Name("edu.eci.arep.LayerCall")
+@Label("Layer Call")
+@Category({"AREP", "Properties"})
+@Description("Call into the controller, service or repository layer")
+@StackTrace(false)
+class LayerCallEvent extends jdk.jfr.Event {
+
+    @Label("Layer")
+    String layer;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Rows")
+    int rows;
+}
@@ -0,0 +1,71 @@
+package edu.eci.arep.app.diagnostics;
+
+import edu.eci.arep.app.dto.PropertyLookupDTO;
+import edu.eci.arep.app.model.Property;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Mide cada llamada a una capa (controller, service, repository): emite un evento JFR
+ * y, si la petición está siendo trazada, agrega un span con la cantidad de filas devueltas.
+ */
+class LayerTracingInterceptor implements MethodInterceptor {
+
+    private final String layer;
+
+    LayerTracingInterceptor(String layer) {
+        this.layer = layer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (invocation.getMethod().getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+        RequestTrace trace = TraceContext.current();
+        LayerCallEvent event = new LayerCallEvent();
+        long start = System.nanoTime();
+        event.begin();
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } finally {
+            event.end();
+            Integer rows = rowsOf(result);
+            if (event.shouldCommit()) {
+                event.layer = layer;
+                event.operation = invocation.getMethod().getName();
+                event.rows = rows != null ? rows : -1;
+                event.commit();
+            }
+            if (trace != null) {
+                trace.addSpan(layer, invocation.getMethod().getName(), start, rows, null);
+            }
+        }
+    }
+
+    static Integer rowsOf(Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof PropertyLookupDTO lookup) {
+            return lookup.getProperties() != null ? lookup.getProperties().size() : null;
+        }
+        // Solo una entidad cuenta como fila; DTOs, booleanos o números no son filas leídas
+        return result instanceof Property ? 1 : null;
+    }
+}
@@ -0,0 +1,17 @@
+package edu.eci.arep.app.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingSnapshot {
+    private boolean running;
+    private Instant startedAt;
+    private List<EventStats> events;
+}
@@ -0,0 +1,27 @@
+package edu.eci.arep.app.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por petición HTTP a la API. Sin una grabación activa su costo es prácticamente nulo.
+ */
+@Name("edu.eci.arep.Request")
+@Label("API Request")
+@Category({"AREP", "Properties"})
+@Description("HTTP request served by the properties API")
+@StackTrace(false)
+class RequestEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+}
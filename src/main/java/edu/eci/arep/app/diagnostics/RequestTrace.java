@@ -0,0 +1,46 @@
+package edu.eci.arep.app.diagnostics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Traza de una petición muestreada: los spans de cada capa y de cada sentencia SQL,
+ * con tiempos relativos al inicio de la petición.
+ */
+@Getter
+public class RequestTrace {
+
+    private final String method;
+    private final String path;
+    private final Instant startedAt = Instant.now();
+    private final List<TraceSpan> spans = Collections.synchronizedList(new ArrayList<>());
+    @Getter(AccessLevel.NONE)
+    private final long startNanos = System.nanoTime();
+    private int status;
+    private long durationMicros;
+
+    public RequestTrace(String method, String path) {
+        this.method = method;
+        this.path = path;
+    }
+
+    void addSpan(String layer, String name, long spanStartNanos, Integer rows, String sql) {
+        long now = System.nanoTime();
+        spans.add(new TraceSpan(layer, name, (spanStartNanos - startNanos) / 1000, (now - spanStartNanos) / 1000,
+                rows, sql));
+    }
+
+    void finish(int status) {
+        this.status = status;
+        this.durationMicros = (System.nanoTime() - startNanos) / 1000;
+        synchronized (spans) {
+            spans.sort(Comparator.comparingLong(TraceSpan::getStartOffsetMicros));
+        }
+    }
+}
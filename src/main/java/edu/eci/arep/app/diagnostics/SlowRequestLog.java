@@ -0,0 +1,40 @@
+package edu.eci.arep.app.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Guarda en memoria las últimas trazas de peticiones lentas (las más recientes primero).
+ */
+@Component
+@ConditionalOnProperty(name = "diagnostics.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestLog {
+
+    private final int capacity;
+    private final Deque<RequestTrace> traces = new ArrayDeque<>();
+
+    public SlowRequestLog(@Value("${diagnostics.tracing.capacity:100}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(RequestTrace trace) {
+        if (traces.size() == capacity) {
+            traces.removeLast();
+        }
+        traces.addFirst(trace);
+    }
+
+    public synchronized List<RequestTrace> getTraces() {
+        return new ArrayList<>(traces);
+    }
+
+    public synchronized void clear() {
+        traces.clear();
+    }
+}
@@ -0,0 +1,21 @@
+package edu.eci.arep.app.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por sentencia JDBC ejecutada por Hibernate. El SQL va con placeholders, sin parámetros.
+ */
+@Name("edu.eci.arep.Sql")
+@Label("SQL Statement")
+@Category({"AREP", "Properties"})
+@Description("JDBC statement executed by Hibernate")
+@StackTrace(false)
+class SqlEvent extends jdk.jfr.Event {
+
+    @Label("SQL")
+    String sql;
+}
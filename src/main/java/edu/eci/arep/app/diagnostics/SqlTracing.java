@@ -0,0 +1,80 @@
+package edu.eci.arep.app.diagnostics;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Enganches de Hibernate para medir el tiempo de JDBC: el StatementInspector recuerda el SQL
+ * (con placeholders, nunca con los valores) y el SessionEventListener mide su ejecución.
+ */
+public final class SqlTracing {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    private SqlTracing() {
+    }
+
+    public static class SqlStatementInspector implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String inspect(String sql) {
+            LAST_SQL.set(sql);
+            return sql;
+        }
+    }
+
+    public static class JdbcTimingListener implements SessionEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient SqlEvent event;
+        private transient long start;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            begin();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            end("jdbc");
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            begin();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            end("jdbc-batch");
+        }
+
+        private void begin() {
+            start = System.nanoTime();
+            event = new SqlEvent();
+            event.begin();
+        }
+
+        private void end(String name) {
+            if (event == null) {
+                return;
+            }
+            event.end();
+            // Se limpia para que una sentencia sin inspección no herede el SQL de la anterior
+            String sql = LAST_SQL.get();
+            LAST_SQL.remove();
+            if (event.shouldCommit()) {
+                event.sql = sql;
+                event.commit();
+            }
+            event = null;
+            RequestTrace trace = TraceContext.current();
+            if (trace != null) {
+                trace.addSpan("jdbc", name, start, null, sql);
+            }
+        }
+    }
+}
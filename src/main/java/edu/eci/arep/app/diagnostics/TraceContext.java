@@ -0,0 +1,43 @@
+package edu.eci.arep.app.diagnostics;
+
+import java.util.function.Supplier;
+
+/**
+ * Traza muestreada de la petición que atiende el hilo actual (null si no se está trazando).
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private TraceContext() {
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    static void set(RequestTrace trace) {
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+    }
+
+    // Propaga la traza del hilo que llama a una tarea que corre en otro hilo
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            RequestTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                return task.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package edu.eci.arep.app.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TraceSpan {
+    private String layer;
+    private String name;
+    private long startOffsetMicros;
+    private long durationMicros;
+    private Integer rows;
+    private String sql;
+}
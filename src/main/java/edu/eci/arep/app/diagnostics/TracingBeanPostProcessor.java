@@ -0,0 +1,43 @@
+package edu.eci.arep.app.diagnostics;
+
+import edu.eci.arep.app.controller.PropertyController;
+import edu.eci.arep.app.repository.PropertyRepository;
+import edu.eci.arep.app.service.PropertyService;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Envuelve PropertyController, PropertyService y PropertyRepository con LayerTracingInterceptor
+ * para medir cuánto tiempo de cada petición pasa en cada capa.
+ */
+@Component
+@ConditionalOnProperty(name = "diagnostics.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingBeanPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof PropertyController) {
+            ProxyFactory proxyFactory = new ProxyFactory(bean);
+            proxyFactory.setProxyTargetClass(true);
+            proxyFactory.addAdvice(new LayerTracingInterceptor("controller"));
+            return proxyFactory.getProxy();
+        }
+        if (bean instanceof PropertyService) {
+            return proxy(bean, PropertyService.class, "service");
+        }
+        if (bean instanceof PropertyRepository) {
+            return proxy(bean, PropertyRepository.class, "repository");
+        }
+        return bean;
+    }
+
+    private Object proxy(Object bean, Class<?> layerInterface, String layer) {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.addInterface(layerInterface);
+        proxyFactory.addAdvice(new LayerTracingInterceptor(layer));
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
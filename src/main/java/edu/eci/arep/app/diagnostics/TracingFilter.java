@@ -0,0 +1,75 @@
+package edu.eci.arep.app.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Abre la traza de cada petición a la API (según la tasa de muestreo), emite el evento JFR
+ * de la petición y guarda la traza en SlowRequestLog si superó el umbral de lentitud.
+ * El tiempo de la petición que no aparece en el span del controlador corresponde a Jackson y al framework.
+ */
+@Component
+@ConditionalOnProperty(name = "diagnostics.tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingFilter extends OncePerRequestFilter {
+
+    private final SlowRequestLog slowRequestLog;
+    private final double sampleRate;
+    private final long slowThresholdMicros;
+
+    public TracingFilter(SlowRequestLog slowRequestLog,
+                         @Value("${diagnostics.tracing.sample-rate:0.01}") double sampleRate,
+                         @Value("${diagnostics.tracing.slow-threshold-ms:500}") long slowThresholdMillis) {
+        this.slowRequestLog = slowRequestLog;
+        this.sampleRate = sampleRate;
+        this.slowThresholdMicros = slowThresholdMillis * 1000;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !path.startsWith("/api/") || path.startsWith("/api/diagnostics");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        RequestTrace trace = isSampled() ? new RequestTrace(request.getMethod(), request.getRequestURI()) : null;
+        TraceContext.set(trace);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TraceContext.set(null);
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.getMethod();
+                // Se usa el patrón de la ruta (/api/properties/{id}) para no disparar la cardinalidad
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.path = pattern != null ? pattern.toString() : request.getRequestURI();
+                event.status = response.getStatus();
+                event.commit();
+            }
+            if (trace != null) {
+                trace.finish(response.getStatus());
+                if (trace.getDurationMicros() >= slowThresholdMicros) {
+                    slowRequestLog.add(trace);
+                }
+            }
+        }
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
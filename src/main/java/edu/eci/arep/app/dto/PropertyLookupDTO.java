@@ -0,0 +1,15 @@
+package edu.eci.arep.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyLookupDTO {
+    private List<PropertyDTO> properties;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,66 @@
+package edu.eci.arep.app.loadtest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registra periódicamente el uso de heap y la actividad del GC del servidor
+ * durante las pruebas de carga y soak (perfil "loadtest").
+ */
+@Component
+@Profile("loadtest")
+public class JvmStatsLogger {
+
+    private static final Logger log = LoggerFactory.getLogger(JvmStatsLogger.class);
+
+    private final long intervalSeconds;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jvm-stats-logger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private long lastGcCount;
+    private long lastGcTimeMillis;
+
+    public JvmStatsLogger(@Value("${loadtest.jvm-stats.interval-seconds:10}") long intervalSeconds) {
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleAtFixedRate(this::logStats, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    void logStats() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long gcCount = 0;
+        long gcTimeMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTimeMillis += Math.max(0, gc.getCollectionTime());
+        }
+        log.info("heapUsed={}MB heapCommitted={}MB heapMax={}MB gcCount={} (+{}) gcTime={}ms (+{}ms)",
+                heap.getUsed() >> 20, heap.getCommitted() >> 20, heap.getMax() >> 20,
+                gcCount, gcCount - lastGcCount, gcTimeMillis, gcTimeMillis - lastGcTimeMillis);
+        lastGcCount = gcCount;
+        lastGcTimeMillis = gcTimeMillis;
+    }
+}
@@ -0,0 +1,86 @@
+package edu.eci.arep.app.loadtest;
+
+import edu.eci.arep.app.model.Property;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generador determinista de propiedades sintéticas para pruebas de carga.
+ * La misma semilla produce siempre la misma secuencia de propiedades.
+ */
+public class PropertyDataGenerator {
+
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private static final String[] STREET_TYPES = {"Calle", "Carrera", "Avenida", "Diagonal", "Transversal"};
+    private static final String[] CITIES = {"Bogotá", "Medellín", "Cali", "Barranquilla", "Cartagena",
+            "Bucaramanga", "Pereira", "Manizales", "Santa Marta", "Villavicencio"};
+    private static final String[] PROPERTY_TYPES = {"Casa", "Apartamento", "Apartaestudio", "Local", "Oficina",
+            "Finca", "Lote", "Penthouse"};
+    private static final String[] FEATURES = {"con parqueadero", "con balcón", "cerca al transporte público",
+            "con vista a la montaña", "recién remodelado", "con cocina integral", "en conjunto cerrado",
+            "con terraza", "con zonas verdes", "con gimnasio", "con portería 24 horas", "con chimenea",
+            "cerca a centros comerciales", "con estudio", "iluminado", "con patio"};
+
+    private final SplittableRandom random;
+
+    public PropertyDataGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    public Property next() {
+        Property property = new Property();
+        property.setAddress(nextAddress());
+        double size = nextSize();
+        property.setSize(size);
+        property.setPrice(nextPrice(size));
+        property.setDescription(nextDescription());
+        return property;
+    }
+
+    private String nextAddress() {
+        return STREET_TYPES[random.nextInt(STREET_TYPES.length)] + " " + (1 + random.nextInt(200))
+                + " # " + (1 + random.nextInt(150)) + "-" + (1 + random.nextInt(99))
+                + ", " + CITIES[random.nextInt(CITIES.length)];
+    }
+
+    // Log-normal con mediana cercana a 70 m2, acotada entre 15 y 2000 m2
+    private double nextSize() {
+        double size = Math.exp(Math.log(70) + 0.6 * random.nextGaussian());
+        return round(Math.max(15, Math.min(2000, size)));
+    }
+
+    // Precio por m2 log-normal con mediana cercana a 4.5 millones
+    private double nextPrice(double size) {
+        double pricePerSquareMeter = Math.exp(Math.log(4_500_000) + 0.5 * random.nextGaussian());
+        return round(size * pricePerSquareMeter);
+    }
+
+    // La mayoría de descripciones son cortas; una cola larga llega al límite de la columna
+    private String nextDescription() {
+        int roll = random.nextInt(100);
+        if (roll < 5) {
+            return null;
+        }
+        int targetLength;
+        if (roll < 70) {
+            targetLength = 40 + random.nextInt(160);
+        } else if (roll < 95) {
+            targetLength = 200 + random.nextInt(400);
+        } else {
+            targetLength = 600 + random.nextInt(MAX_DESCRIPTION_LENGTH - 600 + 1);
+        }
+
+        StringBuilder description = new StringBuilder(targetLength + 64);
+        description.append(PROPERTY_TYPES[random.nextInt(PROPERTY_TYPES.length)]);
+        while (description.length() < targetLength) {
+            description.append(' ').append(FEATURES[random.nextInt(FEATURES.length)]).append(',');
+        }
+        description.setLength(Math.min(description.length(), targetLength));
+        return description.toString();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
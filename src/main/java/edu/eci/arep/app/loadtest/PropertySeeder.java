@@ -0,0 +1,79 @@
+package edu.eci.arep.app.loadtest;
+
+import edu.eci.arep.app.model.Property;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carga la tabla properties con datos sintéticos al arrancar con el perfil "seed".
+ * Usa inserciones JDBC por lotes, cada lote en su propia transacción, para poder sembrar millones de filas.
+ * No soporta la tabla particionada (sharding.enabled=true).
+ */
+@Component
+@Profile("seed")
+public class PropertySeeder implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PropertySeeder.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO properties (address, price, size, description) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long rows;
+    private final int batchSize;
+    private final long randomSeed;
+    private final boolean shardingEnabled;
+
+    public PropertySeeder(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${loadtest.seed.rows:100000}") long rows,
+                          @Value("${loadtest.seed.batch-size:1000}") int batchSize,
+                          @Value("${loadtest.seed.random-seed:42}") long randomSeed,
+                          @Value("${sharding.enabled:false}") boolean shardingEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.randomSeed = randomSeed;
+        this.shardingEnabled = shardingEnabled;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (shardingEnabled) {
+            throw new IllegalStateException("The seed profile does not support sharding.enabled=true");
+        }
+        PropertyDataGenerator generator = new PropertyDataGenerator(randomSeed);
+        long start = System.nanoTime();
+        long inserted = 0;
+        List<Object[]> batch = new ArrayList<>(batchSize);
+
+        log.info("Seeding {} properties (seed={}, batchSize={})", rows, randomSeed, batchSize);
+        while (inserted < rows) {
+            Property property = generator.next();
+            batch.add(new Object[]{property.getAddress(), property.getPrice(), property.getSize(),
+                    property.getDescription()});
+            inserted++;
+            if (batch.size() == batchSize || inserted == rows) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+                batch.clear();
+                if (inserted % (batchSize * 100L) == 0 || inserted == rows) {
+                    log.info("Seeded {}/{} properties", inserted, rows);
+                }
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Seeding finished: {} properties in {} ms", inserted, elapsedMillis);
+    }
+}
@@ -2,6 +2,7 @@ package edu.eci.arep.app.service;
 
 import edu.eci.arep.app.model.Property;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,8 @@ public interface PropertyService {
 
     Optional<Property> getPropertyById(Long id);
 
+    List<Property> getPropertiesByIds(Collection<Long> ids);
+
     Property saveProperty(Property property);
 
     void deleteProperty(Long id);
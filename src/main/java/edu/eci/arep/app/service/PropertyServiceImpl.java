@@ -2,14 +2,21 @@ package edu.eci.arep.app.service;
 
 import edu.eci.arep.app.model.Property;
 import edu.eci.arep.app.repository.PropertyRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Service
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "false", matchIfMissing = true)
 public class PropertyServiceImpl implements PropertyService {
 
+    // Máximo de ids por consulta IN para no generar sentencias demasiado grandes
+    static final int LOOKUP_CHUNK_SIZE = 50;
+
     private final PropertyRepository propertyRepository;
 
     public PropertyServiceImpl(PropertyRepository propertyRepository) {
@@ -26,6 +33,17 @@ public class PropertyServiceImpl implements PropertyService {
         return propertyRepository.findById(id);
     }
 
+    @Override
+    public List<Property> getPropertiesByIds(Collection<Long> ids) {
+        List<Long> idList = new ArrayList<>(ids);
+        List<Property> found = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + LOOKUP_CHUNK_SIZE, idList.size());
+            found.addAll(propertyRepository.findAllById(idList.subList(from, to)));
+        }
+        return found;
+    }
+
     @Override
     public Property saveProperty(Property property) {
         return propertyRepository.save(property);
@@ -0,0 +1,152 @@
+package edu.eci.arep.app.service;
+
+import edu.eci.arep.app.diagnostics.TraceContext;
+import edu.eci.arep.app.model.Property;
+import edu.eci.arep.app.repository.PropertyRepository;
+import edu.eci.arep.app.sharding.ShardContext;
+import edu.eci.arep.app.sharding.ShardRouter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntFunction;
+
+/**
+ * PropertyService para la tabla particionada: las operaciones por id van a un único shard
+ * y los listados se consultan en paralelo en todos los shards (scatter-gather).
+ */
+@Service
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardedPropertyService implements PropertyService {
+
+    private static final Comparator<Property> BY_ID = Comparator.comparing(Property::getId);
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyServiceImpl shardService;
+    private final ShardRouter shardRouter;
+    private final ExecutorService shardExecutor;
+
+    public ShardedPropertyService(PropertyRepository propertyRepository, ShardRouter shardRouter,
+                                  @Qualifier("shardExecutor") ExecutorService shardExecutor) {
+        this.propertyRepository = propertyRepository;
+        this.shardService = new PropertyServiceImpl(propertyRepository);
+        this.shardRouter = shardRouter;
+        this.shardExecutor = shardExecutor;
+    }
+
+    @Override
+    public List<Property> getAllProperties() {
+        return mergeSorted(onShards(allShards(), shard -> propertyRepository.findAll(Sort.by("id"))), BY_ID);
+    }
+
+    @Override
+    public Optional<Property> getPropertyById(Long id) {
+        int shard = shardRouter.shardFor(id);
+        if (shard == ShardRouter.NO_SHARD) {
+            return Optional.empty();
+        }
+        return ShardContext.callOn(shard, () -> shardService.getPropertyById(id));
+    }
+
+    @Override
+    public List<Property> getPropertiesByIds(Collection<Long> ids) {
+        Map<Integer, List<Long>> idsByShard = new TreeMap<>();
+        for (Long id : ids) {
+            int shard = shardRouter.shardFor(id);
+            if (shard != ShardRouter.NO_SHARD) {
+                idsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(id);
+            }
+        }
+        List<Property> found = new ArrayList<>();
+        onShards(new ArrayList<>(idsByShard.keySet()),
+                shard -> shardService.getPropertiesByIds(idsByShard.get(shard)))
+                .forEach(found::addAll);
+        return found;
+    }
+
+    @Override
+    public Property saveProperty(Property property) {
+        int shard = property.getId() == null ? shardRouter.shardForInsert() : shardRouter.shardFor(property.getId());
+        if (shard == ShardRouter.NO_SHARD) {
+            throw new IllegalArgumentException("No shard owns property id " + property.getId());
+        }
+        return ShardContext.callOn(shard, () -> shardService.saveProperty(property));
+    }
+
+    @Override
+    public void deleteProperty(Long id) {
+        int shard = shardRouter.shardFor(id);
+        if (shard == ShardRouter.NO_SHARD) {
+            throw new IllegalArgumentException("Property not found with id " + id);
+        }
+        ShardContext.runOn(shard, () -> shardService.deleteProperty(id));
+    }
+
+    private List<Integer> allShards() {
+        List<Integer> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            shards.add(shard);
+        }
+        return shards;
+    }
+
+    // Ejecuta la consulta en cada shard desde el pool y espera todos los resultados, en orden de shard
+    private <T> List<T> onShards(List<Integer> shards, IntFunction<T> query) {
+        if (shards.size() == 1) {
+            int shard = shards.get(0);
+            return List.of(ShardContext.callOn(shard, () -> query.apply(shard)));
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int shard : shards) {
+            futures.add(CompletableFuture.supplyAsync(TraceContext.propagate(
+                    () -> ShardContext.callOn(shard, () -> query.apply(shard))), shardExecutor));
+        }
+        List<T> results = new ArrayList<>();
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    static <T> List<T> mergeSorted(List<List<T>> sortedLists, Comparator<T> comparator) {
+        // Cada entrada de la cola es {índice de lista, posición dentro de la lista}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(
+                (a, b) -> comparator.compare(sortedLists.get(a[0]).get(a[1]), sortedLists.get(b[0]).get(b[1])));
+        int total = 0;
+        for (int i = 0; i < sortedLists.size(); i++) {
+            total += sortedLists.get(i).size();
+            if (!sortedLists.get(i).isEmpty()) {
+                heads.add(new int[]{i, 0});
+            }
+        }
+        List<T> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> list = sortedLists.get(head[0]);
+            merged.add(list.get(head[1]));
+            if (head[1] + 1 < list.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+        return merged;
+    }
+}
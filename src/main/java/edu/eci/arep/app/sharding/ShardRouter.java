@@ -0,0 +1,53 @@
+package edu.eci.arep.app.sharding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asigna propiedades a shards por rango de id. Cada shard genera ids únicamente dentro
+ * de su propio rango (su columna identity arranca en firstIdOf), por lo que el id
+ * de una propiedad basta para saber en qué shard vive.
+ */
+public class ShardRouter {
+
+    public static final int NO_SHARD = -1;
+
+    private final int shardCount;
+    private final long rangeSize;
+    private final AtomicInteger nextInsertShard = new AtomicInteger();
+
+    public ShardRouter(int shardCount, long rangeSize) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (rangeSize < 1 || rangeSize > Long.MAX_VALUE / shardCount) {
+            throw new IllegalArgumentException("Invalid range size " + rangeSize + " for " + shardCount + " shards");
+        }
+        this.shardCount = shardCount;
+        this.rangeSize = rangeSize;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardFor(long id) {
+        if (id < 1) {
+            return NO_SHARD;
+        }
+        long shard = (id - 1) / rangeSize;
+        return shard < shardCount ? (int) shard : NO_SHARD;
+    }
+
+    public long firstIdOf(int shard) {
+        return shard * rangeSize + 1;
+    }
+
+    public long lastIdOf(int shard) {
+        return (shard + 1) * rangeSize;
+    }
+
+    // Las nuevas propiedades se reparten en round-robin entre los shards
+    public int shardForInsert() {
+        return Math.floorMod(nextInsertShard.getAndIncrement(), shardCount);
+    }
+}
@@ -0,0 +1,73 @@
+package edu.eci.arep.app.sharding;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource que entrega conexiones del shard indicado en ShardContext. Durante el arranque
+ * (metadatos de Hibernate) se usa el shard 0; una vez levantado el contexto, pedir una conexión
+ * sin shard seleccionado es un error, para que ningún acceso termine en el shard 0 por descuido.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource
+        implements ApplicationListener<ContextRefreshedEvent>, AutoCloseable {
+
+    private final List<DataSource> shards;
+    private volatile boolean requireShardContext;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        requireShardContext = true;
+    }
+
+    public void requireShardContext() {
+        requireShardContext = true;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        if (shard == null && requireShardContext) {
+            throw new IllegalStateException("No shard selected; wrap the database access in ShardContext.callOn");
+        }
+        return shard;
+    }
+
+    @Override
+    public void close() {
+        IllegalStateException failure = null;
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = new IllegalStateException("Could not close shard data source", e);
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package edu.eci.arep.app.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Prepara un shard: crea la tabla properties si no existe y lleva su columna identity
+ * al inicio del rango del shard. Nunca la mueve hacia atrás, para no reutilizar ids ya emitidos.
+ */
+final class ShardSchemaInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private ShardSchemaInitializer() {
+    }
+
+    static void initialize(DataSource dataSource, int shard, ShardRouter shardRouter) {
+        new ResourceDatabasePopulator(new ClassPathResource("sharding/schema.sql")).execute(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long firstId = shardRouter.firstIdOf(shard);
+        long lastId = shardRouter.lastIdOf(shard);
+        // Un shard con filas por debajo de su rango suele indicar shards reordenados en la configuración
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM properties");
+        Number minId = (Number) bounds.get("min_id");
+        Number maxId = (Number) bounds.get("max_id");
+        if (minId != null && (minId.longValue() < firstId || maxId.longValue() > lastId)) {
+            throw new IllegalStateException("Shard " + shard + " contains ids outside its range");
+        }
+
+        boolean h2 = "H2".equalsIgnoreCase(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+        long nextId = h2 ? nextIdentityH2(jdbcTemplate) : nextIdentityMySql(jdbcTemplate);
+        if (nextId > lastId) {
+            throw new IllegalStateException("Shard " + shard + " identity is past the end of its range");
+        }
+        if (nextId < firstId) {
+            if (h2) {
+                jdbcTemplate.execute("ALTER TABLE properties ALTER COLUMN id RESTART WITH " + firstId);
+            } else {
+                jdbcTemplate.execute("ALTER TABLE properties AUTO_INCREMENT = " + firstId);
+            }
+        }
+        log.info("Shard {} ready (ids {}-{})", shard, firstId, lastId);
+    }
+
+    private static long nextIdentityH2(JdbcTemplate jdbcTemplate) {
+        Long next = jdbcTemplate.queryForObject("SELECT IDENTITY_BASE FROM INFORMATION_SCHEMA.COLUMNS"
+                + " WHERE TABLE_SCHEMA = SCHEMA() AND LOWER(TABLE_NAME) = 'properties' AND LOWER(COLUMN_NAME) = 'id'",
+                Long.class);
+        return next != null ? next : 1;
+    }
+
+    private static long nextIdentityMySql(JdbcTemplate jdbcTemplate) {
+        // Sin esto MySQL 8 puede devolver un AUTO_INCREMENT cacheado en las estadísticas
+        jdbcTemplate.execute("SET SESSION information_schema_stats_expiry = 0");
+        Long next = jdbcTemplate.queryForObject("SELECT AUTO_INCREMENT FROM INFORMATION_SCHEMA.TABLES"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'properties'", Long.class);
+        return next != null ? next : 1;
+    }
+}
@@ -0,0 +1,29 @@
+package edu.eci.arep.app.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración del particionamiento horizontal de la tabla properties (prefijo "sharding").
+ */
+@Data
+@ConfigurationProperties(prefix = "sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    // Cantidad de ids reservados para cada shard: el shard i posee [i * rangeSize + 1, (i + 1) * rangeSize]
+    private long rangeSize = 1_000_000_000_000L;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
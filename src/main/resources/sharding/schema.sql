@@ -0,0 +1,8 @@
+CREATE TABLE IF NOT EXISTS properties (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    address VARCHAR(255) NOT NULL,
+    price DOUBLE NOT NULL,
+    size DOUBLE NOT NULL,
+    description VARCHAR(1000),
+    PRIMARY KEY (id)
+);
@@ -15,11 +15,16 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -255,6 +260,89 @@ class PropertyControllerTest {
         verify(propertyService, never()).deleteProperty(anyLong());
     }
 
+    @Test
+    void lookupProperties_ShouldPreserveRequestOrderAndReportMissingIds() throws Exception {
+        // Arrange
+        Property property1 = createTestProperty(1L, "Calle 123", 100000.0, 50.0, "Casa bonita");
+        Property property3 = createTestProperty(3L, "Carrera 456", 200000.0, 80.0, "Apartamento moderno");
+        when(propertyService.getPropertiesByIds(anyCollection())).thenReturn(Arrays.asList(property1, property3));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(3L, 2L, 1L, 3L))))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.properties.length()").value(2))
+                .andExpect(jsonPath("$.properties[0].id").value(3))
+                .andExpect(jsonPath("$.properties[0].address").value("Carrera 456"))
+                .andExpect(jsonPath("$.properties[1].id").value(1))
+                .andExpect(jsonPath("$.missingIds.length()").value(1))
+                .andExpect(jsonPath("$.missingIds[0]").value(2));
+
+        verify(propertyService, times(1)).getPropertiesByIds(anyCollection());
+        verify(propertyService, never()).getPropertyById(anyLong());
+    }
+
+    @Test
+    void lookupProperties_WithEmptyIds_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(propertyService, never()).getPropertiesByIds(anyCollection());
+    }
+
+    @Test
+    void lookupProperties_WithTooManyIds_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        List<Long> ids = LongStream.rangeClosed(1, PropertyController.MAX_LOOKUP_IDS + 1)
+                .boxed()
+                .collect(Collectors.toList());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest());
+
+        verify(propertyService, never()).getPropertiesByIds(anyCollection());
+    }
+
+    @Test
+    void lookupProperties_WithOversizedBodyOfDuplicates_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        List<Long> ids = Collections.nCopies(100_000, 1L);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isBadRequest());
+
+        verify(propertyService, never()).getPropertiesByIds(anyCollection());
+    }
+
+    @Test
+    void lookupProperties_WithSomeDuplicates_ShouldAcceptUpToTheUniqueLimit() throws Exception {
+        // Arrange
+        List<Long> ids = new ArrayList<>();
+        LongStream.rangeClosed(1, PropertyController.MAX_LOOKUP_IDS).forEach(id -> {
+            ids.add(id);
+            ids.add(id);
+        });
+        when(propertyService.getPropertiesByIds(anyCollection())).thenReturn(Collections.emptyList());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/properties/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missingIds.length()").value(PropertyController.MAX_LOOKUP_IDS));
+    }
+
     private Property createTestProperty(Long id, String address, Double price, Double size, String description) {
         Property property = new Property();
         property.setId(id);
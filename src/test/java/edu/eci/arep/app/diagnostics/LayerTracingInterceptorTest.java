@@ -0,0 +1,42 @@
+package edu.eci.arep.app.diagnostics;
+
+import edu.eci.arep.app.dto.PropertyDTO;
+import edu.eci.arep.app.dto.PropertyLookupDTO;
+import edu.eci.arep.app.model.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LayerTracingInterceptorTest {
+
+    @Test
+    void rowsOf_ShouldCountReturnedRows() {
+        assertThat(LayerTracingInterceptor.rowsOf(Arrays.asList(1, 2, 3))).isEqualTo(3);
+        assertThat(LayerTracingInterceptor.rowsOf(Map.of(1L, new Property()))).isEqualTo(1);
+        assertThat(LayerTracingInterceptor.rowsOf(Optional.of(1))).isEqualTo(1);
+        assertThat(LayerTracingInterceptor.rowsOf(Optional.empty())).isZero();
+        assertThat(LayerTracingInterceptor.rowsOf(new Property())).isEqualTo(1);
+    }
+
+    @Test
+    void rowsOf_ForLookupResult_ShouldCountFoundProperties() {
+        // Arrange
+        PropertyLookupDTO lookup = new PropertyLookupDTO(
+                Arrays.asList(new PropertyDTO(), new PropertyDTO(), new PropertyDTO()), List.of(4L));
+
+        // Act & Assert
+        assertThat(LayerTracingInterceptor.rowsOf(lookup)).isEqualTo(3);
+    }
+
+    @Test
+    void rowsOf_WhenResultIsNotRows_ShouldReturnNull() {
+        assertThat(LayerTracingInterceptor.rowsOf(new PropertyDTO())).isNull();
+        assertThat(LayerTracingInterceptor.rowsOf(true)).isNull();
+        assertThat(LayerTracingInterceptor.rowsOf(null)).isNull();
+    }
+}
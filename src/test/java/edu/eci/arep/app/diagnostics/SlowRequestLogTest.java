@@ -0,0 +1,38 @@
+package edu.eci.arep.app.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowRequestLogTest {
+
+    @Test
+    void add_ShouldKeepOnlyMostRecentTraces() {
+        // Arrange
+        SlowRequestLog slowRequestLog = new SlowRequestLog(2);
+        RequestTrace first = new RequestTrace("GET", "/api/properties/1");
+        RequestTrace second = new RequestTrace("GET", "/api/properties/2");
+        RequestTrace third = new RequestTrace("GET", "/api/properties/3");
+
+        // Act
+        slowRequestLog.add(first);
+        slowRequestLog.add(second);
+        slowRequestLog.add(third);
+
+        // Assert
+        assertThat(slowRequestLog.getTraces()).containsExactly(third, second);
+    }
+
+    @Test
+    void clear_ShouldRemoveAllTraces() {
+        // Arrange
+        SlowRequestLog slowRequestLog = new SlowRequestLog(2);
+        slowRequestLog.add(new RequestTrace("GET", "/api/properties/1"));
+
+        // Act
+        slowRequestLog.clear();
+
+        // Assert
+        assertThat(slowRequestLog.getTraces()).isEmpty();
+    }
+}
@@ -0,0 +1,85 @@
+package edu.eci.arep.app.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTracingTest {
+
+    private static final String SQL = "select p1_0.id from properties p1_0 where p1_0.id=?";
+
+    private final SqlTracing.SqlStatementInspector inspector = new SqlTracing.SqlStatementInspector();
+    private final SqlTracing.JdbcTimingListener listener = new SqlTracing.JdbcTimingListener();
+
+    @AfterEach
+    void tearDown() {
+        TraceContext.set(null);
+    }
+
+    @Test
+    void jdbcExecuteStatement_WhenRequestIsTraced_ShouldAddJdbcSpanWithSql() {
+        // Arrange
+        RequestTrace trace = new RequestTrace("GET", "/api/properties/1");
+        TraceContext.set(trace);
+
+        // Act
+        String inspected = inspector.inspect(SQL);
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        // Assert
+        assertThat(inspected).isEqualTo(SQL);
+        assertThat(trace.getSpans()).hasSize(1);
+        TraceSpan span = trace.getSpans().get(0);
+        assertThat(span.getLayer()).isEqualTo("jdbc");
+        assertThat(span.getName()).isEqualTo("jdbc");
+        assertThat(span.getSql()).isEqualTo(SQL);
+        assertThat(span.getRows()).isNull();
+    }
+
+    @Test
+    void jdbcExecuteBatch_WhenRequestIsTraced_ShouldAddBatchSpan() {
+        // Arrange
+        RequestTrace trace = new RequestTrace("POST", "/api/properties");
+        TraceContext.set(trace);
+
+        // Act
+        inspector.inspect("insert into properties (address,description,price,size) values (?,?,?,?)");
+        listener.jdbcExecuteBatchStart();
+        listener.jdbcExecuteBatchEnd();
+
+        // Assert
+        assertThat(trace.getSpans()).extracting(TraceSpan::getName).containsExactly("jdbc-batch");
+    }
+
+    @Test
+    void jdbcExecuteStatement_WhenStatementWasNotInspected_ShouldNotReusePreviousSql() {
+        // Arrange
+        RequestTrace trace = new RequestTrace("GET", "/api/properties/1");
+        TraceContext.set(trace);
+        inspector.inspect(SQL);
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        // Act
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        // Assert
+        assertThat(trace.getSpans()).extracting(TraceSpan::getSql).containsExactly(SQL, null);
+    }
+
+    @Test
+    void jdbcExecuteStatementEnd_WithoutStart_ShouldNotAddSpan() {
+        // Arrange
+        RequestTrace trace = new RequestTrace("GET", "/api/properties/1");
+        TraceContext.set(trace);
+
+        // Act
+        listener.jdbcExecuteStatementEnd();
+
+        // Assert
+        assertThat(trace.getSpans()).isEmpty();
+    }
+}
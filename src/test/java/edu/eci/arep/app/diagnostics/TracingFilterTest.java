@@ -0,0 +1,106 @@
+package edu.eci.arep.app.diagnostics;
+
+import edu.eci.arep.app.model.Property;
+import edu.eci.arep.app.service.PropertyService;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TracingFilterTest {
+
+    private SlowRequestLog slowRequestLog;
+    private PropertyService tracedService;
+
+    @BeforeEach
+    void setUp() {
+        slowRequestLog = new SlowRequestLog(2);
+        PropertyService propertyService = mock(PropertyService.class);
+        when(propertyService.getAllProperties()).thenReturn(Arrays.asList(new Property(), new Property()));
+        when(propertyService.getPropertyById(99L)).thenReturn(Optional.empty());
+        tracedService = (PropertyService) new TracingBeanPostProcessor()
+                .postProcessAfterInitialization(propertyService, "propertyService");
+    }
+
+    @Test
+    void doFilter_WhenRequestIsSlow_ShouldCaptureTraceWithLayerSpans() throws Exception {
+        // Arrange
+        TracingFilter filter = new TracingFilter(slowRequestLog, 1.0, 0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/properties");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                tracedService.getAllProperties();
+                tracedService.getPropertyById(99L);
+            }
+        }));
+
+        // Assert
+        List<RequestTrace> traces = slowRequestLog.getTraces();
+        assertThat(traces).hasSize(1);
+        RequestTrace trace = traces.get(0);
+        assertThat(trace.getMethod()).isEqualTo("GET");
+        assertThat(trace.getPath()).isEqualTo("/api/properties");
+        assertThat(trace.getStatus()).isEqualTo(200);
+        assertThat(trace.getSpans()).extracting(TraceSpan::getName)
+                .containsExactly("getAllProperties", "getPropertyById");
+        assertThat(trace.getSpans()).extracting(TraceSpan::getRows).containsExactly(2, 0);
+        assertThat(trace.getSpans()).extracting(TraceSpan::getLayer).containsOnly("service");
+        assertThat(TraceContext.current()).isNull();
+    }
+
+    @Test
+    void doFilter_WhenRequestIsFast_ShouldNotCaptureTrace() throws Exception {
+        // Arrange
+        TracingFilter filter = new TracingFilter(slowRequestLog, 1.0, 60_000);
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/properties"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Assert
+        assertThat(slowRequestLog.getTraces()).isEmpty();
+    }
+
+    @Test
+    void doFilter_WhenRequestIsNotSampled_ShouldNotOpenTrace() throws Exception {
+        // Arrange
+        TracingFilter filter = new TracingFilter(slowRequestLog, 0.0, 0);
+        List<RequestTrace> seen = new ArrayList<>();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/properties"), new MockHttpServletResponse(),
+                (req, resp) -> seen.add(TraceContext.current()));
+
+        // Assert
+        assertThat(seen).containsExactly((RequestTrace) null);
+        assertThat(slowRequestLog.getTraces()).isEmpty();
+    }
+
+    @Test
+    void doFilter_ForDiagnosticsEndpoints_ShouldNotTrace() throws Exception {
+        // Arrange
+        TracingFilter filter = new TracingFilter(slowRequestLog, 1.0, 0);
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/diagnostics/slow-requests"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        assertThat(slowRequestLog.getTraces()).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package edu.eci.arep.app.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentile_ShouldStayWithinOnePercentOfExactValue() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+
+        // Act & Assert
+        assertThat(histogram.getCount()).isEqualTo(100_000);
+        assertThat(histogram.getMax()).isEqualTo(100_000);
+        assertThat((double) histogram.percentile(50)).isCloseTo(50_000, within(500.0));
+        assertThat((double) histogram.percentile(99)).isCloseTo(99_000, within(990.0));
+        assertThat((double) histogram.percentile(99.9)).isCloseTo(99_900, within(999.0));
+        assertThat(histogram.percentile(100)).isEqualTo(100_000);
+    }
+
+    @Test
+    void percentile_WhenEmptyOrReset_ShouldReturnZero() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1234);
+
+        // Act
+        histogram.reset();
+
+        // Assert
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.percentile(99)).isZero();
+    }
+
+    @Test
+    void indexOf_ShouldMapValuesToBucketsContainingThem() {
+        for (long value : new long[]{0, 1, 255, 256, 257, 1_000, 65_535, 1_000_000, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package edu.eci.arep.app.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.eci.arep.app.dto.PropertyDTO;
+import edu.eci.arep.app.model.Property;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de carga de modelo abierto: lanza peticiones a una tasa de llegada fija
+ * sobre todos los endpoints de PropertyController y reporta throughput y percentiles.
+ * La latencia se mide desde el instante en que la petición debía salir (no desde que salió),
+ * corrigiendo la omisión coordinada cuando el servidor o el cliente se atrasan.
+ * Solo se miden las peticiones programadas después del calentamiento; las que siguen sin respuesta
+ * al terminar el drenaje se cuentan como timeouts.
+ *
+ * Uso: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=edu.eci.arep.app.loadtest.LoadTestRunner
+ *          -Dexec.args="--base-url=http://localhost:8080 --rate=200 --duration=300 --max-id=100000"
+ */
+public class LoadTestRunner {
+
+    enum Operation { LIST, GET, LOOKUP, CREATE, UPDATE, DELETE }
+
+    private static final long DRAIN_TIMEOUT_SECONDS = 30;
+
+    private static final String DEFAULT_MIX = "list:0,get:60,lookup:15,create:10,update:10,delete:5";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final double rate;
+    private final long durationSeconds;
+    private final long warmupSeconds;
+    private final long reportIntervalSeconds;
+    private final long maxId;
+    private final int lookupSize;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final SplittableRandom random;
+    private final PropertyDataGenerator generator;
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final LatencyHistogram intervalHistogram = new LatencyHistogram();
+    private final AtomicLong intervalErrors = new AtomicLong();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong nextRequestId = new AtomicLong();
+    private final Map<Long, PendingRequest> pendingMeasured = new ConcurrentHashMap<>();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final ConcurrentLinkedDeque<Long> createdIds = new ConcurrentLinkedDeque<>();
+
+    LoadTestRunner(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080") + "/api/properties";
+        this.rate = Double.parseDouble(options.getOrDefault("rate", "100"));
+        this.durationSeconds = Long.parseLong(options.getOrDefault("duration", "60"));
+        this.warmupSeconds = Long.parseLong(options.getOrDefault("warmup", "10"));
+        this.reportIntervalSeconds = Long.parseLong(options.getOrDefault("report-interval", "10"));
+        this.maxId = Long.parseLong(options.getOrDefault("max-id", "100000"));
+        this.lookupSize = Integer.parseInt(options.getOrDefault("lookup-size", "20"));
+        this.mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long seed = Long.parseLong(options.getOrDefault("seed", "7"));
+        this.random = new SplittableRandom(seed);
+        this.generator = new PropertyDataGenerator(seed);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be greater than 0");
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        new LoadTestRunner(parseOptions(args)).run();
+    }
+
+    void run() throws InterruptedException {
+        long periodNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long warmupEnd = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long nextReport = warmupEnd + TimeUnit.SECONDS.toNanos(reportIntervalSeconds);
+
+        System.out.printf("Target %s at %.1f req/s, warmup %ds, duration %ds, mix %s%n",
+                baseUrl, rate, warmupSeconds, durationSeconds, mix);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * periodNanos;
+            if (intended >= end) {
+                break;
+            }
+            boolean measured = intended >= warmupEnd;
+            if (measured && intended >= nextReport) {
+                printInterval(reportIntervalSeconds);
+                nextReport += TimeUnit.SECONDS.toNanos(reportIntervalSeconds);
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(resolve(nextOperation()), intended, measured);
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DRAIN_TIMEOUT_SECONDS);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        long measuredEnd = System.nanoTime();
+        recordTimeouts(measuredEnd);
+        printSummary((measuredEnd - warmupEnd) / 1_000_000_000.0);
+    }
+
+    private void fire(Operation operation, long intended, boolean measured) {
+        HttpRequest request;
+        try {
+            request = buildRequest(operation);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        long sent = System.nanoTime();
+        long requestId = nextRequestId.getAndIncrement();
+        if (measured) {
+            pendingMeasured.put(requestId, new PendingRequest(operation, intended, sent));
+        }
+        inFlight.incrementAndGet();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    long now = System.nanoTime();
+                    boolean ok = error == null && response.statusCode() / 100 == 2;
+                    if (ok && operation == Operation.CREATE) {
+                        rememberCreatedId(response.body());
+                    }
+                    // Si ya se contó como timeout al cerrar la corrida, no se vuelve a registrar
+                    if (measured && pendingMeasured.remove(requestId) != null) {
+                        record(operation, (now - intended) / 1000, (now - sent) / 1000, ok);
+                    }
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    private HttpRequest buildRequest(Operation operation) throws JsonProcessingException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        switch (operation) {
+            case LIST:
+                return builder.uri(URI.create(baseUrl)).GET().build();
+            case GET:
+                return builder.uri(URI.create(baseUrl + "/" + randomSeededId())).GET().build();
+            case LOOKUP:
+                List<Long> ids = new ArrayList<>(lookupSize);
+                for (int i = 0; i < lookupSize; i++) {
+                    ids.add(randomSeededId());
+                }
+                return json(builder.uri(URI.create(baseUrl + "/lookup")), "POST", ids);
+            case UPDATE:
+                return json(builder.uri(URI.create(baseUrl + "/" + randomSeededId())), "PUT", nextDTO());
+            case DELETE:
+                return builder.uri(URI.create(baseUrl + "/" + createdIds.pollFirst())).DELETE().build();
+            case CREATE:
+            default:
+                return json(builder.uri(URI.create(baseUrl)), "POST", nextDTO());
+        }
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, Object body) throws JsonProcessingException {
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private PropertyDTO nextDTO() {
+        Property property = generator.next();
+        return new PropertyDTO(null, property.getAddress(), property.getPrice(), property.getSize(),
+                property.getDescription());
+    }
+
+    private long randomSeededId() {
+        return 1 + random.nextLong(maxId);
+    }
+
+    private Operation nextOperation() {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.GET;
+    }
+
+    // Solo se eliminan propiedades creadas por esta corrida para no alterar los datos sembrados
+    private Operation resolve(Operation operation) {
+        if (operation == Operation.DELETE && createdIds.isEmpty()) {
+            return Operation.CREATE;
+        }
+        return operation;
+    }
+
+    private void rememberCreatedId(String body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            if (id != null && id.canConvertToLong()) {
+                createdIds.addLast(id.asLong());
+            }
+        } catch (JsonProcessingException ignored) {
+            // Una respuesta inválida ya cuenta como éxito HTTP; solo no se reutiliza el id
+        }
+    }
+
+    private void record(Operation operation, long correctedMicros, long serviceMicros, boolean ok) {
+        OperationStats operationStats = stats.get(operation);
+        operationStats.corrected.record(correctedMicros);
+        operationStats.service.record(serviceMicros);
+        intervalHistogram.record(correctedMicros);
+        if (!ok) {
+            operationStats.errors.incrementAndGet();
+            intervalErrors.incrementAndGet();
+        }
+    }
+
+    // Las peticiones medidas que no respondieron a tiempo cuentan como errores con la latencia acumulada hasta ahora
+    private void recordTimeouts(long now) {
+        for (Long requestId : new ArrayList<>(pendingMeasured.keySet())) {
+            PendingRequest pending = pendingMeasured.remove(requestId);
+            if (pending != null) {
+                timeouts.incrementAndGet();
+                record(pending.operation, (now - pending.intended) / 1000, (now - pending.sent) / 1000, false);
+            }
+        }
+    }
+
+    private void printInterval(long seconds) {
+        System.out.printf("[interval] throughput=%.1f req/s errors=%d p50=%.2fms p99=%.2fms max=%.2fms inFlight=%d%n",
+                intervalHistogram.getCount() / (double) seconds, intervalErrors.get(),
+                millis(intervalHistogram.percentile(50)), millis(intervalHistogram.percentile(99)),
+                millis(intervalHistogram.getMax()), inFlight.get());
+        intervalHistogram.reset();
+        intervalErrors.set(0);
+    }
+
+    private void printSummary(double measuredSeconds) {
+        System.out.println();
+        System.out.printf("Measured window %.1fs (duration plus drain)%n", measuredSeconds);
+        System.out.println("Latencies in ms, corrected for coordinated omission (service-time p99 in brackets)");
+        System.out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %9s %11s%n",
+                "op", "count", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max", "[svc p99]");
+        long totalErrors = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            if (operationStats.corrected.getCount() == 0) {
+                continue;
+            }
+            printRow(entry.getKey().name().toLowerCase(), operationStats, measuredSeconds);
+            totalErrors += operationStats.errors.get();
+        }
+        long totalCount = stats.values().stream().mapToLong(s -> s.corrected.getCount()).sum();
+        System.out.printf("%-8s %10d %8d %10.1f  (timeouts %d)%n", "total", totalCount, totalErrors,
+                totalCount / measuredSeconds, timeouts.get());
+    }
+
+    private void printRow(String name, OperationStats operationStats, double measuredSeconds) {
+        LatencyHistogram histogram = operationStats.corrected;
+        System.out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                name, histogram.getCount(), operationStats.errors.get(),
+                histogram.getCount() / measuredSeconds,
+                millis(histogram.percentile(50)), millis(histogram.percentile(90)),
+                millis(histogram.percentile(99)), millis(histogram.percentile(99.9)),
+                millis(histogram.getMax()), millis(operationStats.service.percentile(99)));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> parsed = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weights must not be negative: " + part);
+            }
+            if (weight > 0) {
+                parsed.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation");
+        }
+        return parsed;
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value but got " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static class OperationStats {
+        private final LatencyHistogram corrected = new LatencyHistogram();
+        private final LatencyHistogram service = new LatencyHistogram();
+        private final AtomicLong errors = new AtomicLong();
+    }
+
+    private static class PendingRequest {
+        private final Operation operation;
+        private final long intended;
+        private final long sent;
+
+        PendingRequest(Operation operation, long intended, long sent) {
+            this.operation = operation;
+            this.intended = intended;
+            this.sent = sent;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package edu.eci.arep.app.loadtest;
+
+import edu.eci.arep.app.model.Property;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyDataGeneratorTest {
+
+    @Test
+    void next_WithSameSeed_ShouldProduceSameSequence() {
+        // Arrange
+        PropertyDataGenerator first = new PropertyDataGenerator(42);
+        PropertyDataGenerator second = new PropertyDataGenerator(42);
+
+        // Act & Assert
+        for (int i = 0; i < 1000; i++) {
+            assertThat(first.next()).isEqualTo(second.next());
+        }
+    }
+
+    @Test
+    void next_ShouldProduceValidProperties() {
+        // Arrange
+        PropertyDataGenerator generator = new PropertyDataGenerator(7);
+        int longDescriptions = 0;
+
+        // Act & Assert
+        for (int i = 0; i < 10000; i++) {
+            Property property = generator.next();
+            assertThat(property.getId()).isNull();
+            assertThat(property.getAddress()).isNotBlank();
+            assertThat(property.getPrice()).isGreaterThan(0);
+            assertThat(property.getSize()).isBetween(15.0, 2000.0);
+            if (property.getDescription() != null) {
+                assertThat(property.getDescription().length())
+                        .isLessThanOrEqualTo(PropertyDataGenerator.MAX_DESCRIPTION_LENGTH);
+                if (property.getDescription().length() > 600) {
+                    longDescriptions++;
+                }
+            }
+        }
+        assertThat(longDescriptions).isGreaterThan(0);
+    }
+}
@@ -12,10 +12,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -95,6 +98,34 @@ class PropertyServiceImplTest {
         verify(propertyRepository, times(1)).findById(999L);
     }
 
+    @Test
+    void getPropertiesByIds_ShouldQueryInChunks() {
+        // Arrange
+        int total = PropertyServiceImpl.LOOKUP_CHUNK_SIZE * 2 + 1;
+        List<Long> ids = LongStream.rangeClosed(1, total).boxed().collect(Collectors.toList());
+        List<Long> lastChunk = ids.subList(total - 1, total);
+        when(propertyRepository.findAllById(anyIterable())).thenReturn(Arrays.asList());
+        when(propertyRepository.findAllById(lastChunk)).thenReturn(Arrays.asList(testProperty));
+
+        // Act
+        List<Property> result = propertyService.getPropertiesByIds(ids);
+
+        // Assert
+        assertThat(result).containsExactly(testProperty);
+        verify(propertyRepository, times(3)).findAllById(anyIterable());
+        verify(propertyRepository, times(1)).findAllById(ids.subList(0, PropertyServiceImpl.LOOKUP_CHUNK_SIZE));
+    }
+
+    @Test
+    void getPropertiesByIds_WithNoIds_ShouldNotQueryRepository() {
+        // Act
+        List<Property> result = propertyService.getPropertiesByIds(Arrays.asList());
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(propertyRepository, never()).findAllById(anyIterable());
+    }
+
     @Test
     void saveProperty_WithValidProperty_ShouldReturnSavedProperty() {
         // Arrange
@@ -0,0 +1,197 @@
+package edu.eci.arep.app.service;
+
+import edu.eci.arep.app.model.Property;
+import edu.eci.arep.app.repository.PropertyRepository;
+import edu.eci.arep.app.sharding.ShardContext;
+import edu.eci.arep.app.sharding.ShardRouter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedPropertyServiceTest {
+
+    private static final long RANGE_SIZE = 1000;
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private ExecutorService shardExecutor;
+    private ShardedPropertyService propertyService;
+
+    @BeforeEach
+    void setUp() {
+        shardExecutor = Executors.newFixedThreadPool(3);
+        propertyService = new ShardedPropertyService(propertyRepository, new ShardRouter(3, RANGE_SIZE),
+                shardExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardExecutor.shutdownNow();
+    }
+
+    @Test
+    void getPropertyById_ShouldQueryOnlyTheOwningShard() {
+        // Arrange
+        Property property = createTestProperty(1001L, "Calle 123");
+        List<Integer> shardsQueried = new ArrayList<>();
+        when(propertyRepository.findById(1001L)).thenAnswer(invocation -> {
+            shardsQueried.add(ShardContext.current());
+            return Optional.of(property);
+        });
+
+        // Act
+        Optional<Property> result = propertyService.getPropertyById(1001L);
+
+        // Assert
+        assertThat(result).contains(property);
+        assertThat(shardsQueried).containsExactly(1);
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    @Test
+    void getPropertyById_WithIdOutsideAllShards_ShouldReturnEmpty() {
+        // Act
+        Optional<Property> result = propertyService.getPropertyById(RANGE_SIZE * 3 + 1);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(propertyRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getAllProperties_ShouldQueryEveryShardAndMergeById() {
+        // Arrange
+        when(propertyRepository.findAll(any(Sort.class))).thenAnswer(invocation -> {
+            long base = ShardContext.current() * RANGE_SIZE;
+            return Arrays.asList(createTestProperty(base + 1, "A"), createTestProperty(base + 2, "B"));
+        });
+
+        // Act
+        List<Property> result = propertyService.getAllProperties();
+
+        // Assert
+        assertThat(result).extracting(Property::getId).containsExactly(1L, 2L, 1001L, 1002L, 2001L, 2002L);
+        verify(propertyRepository, times(3)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void getPropertiesByIds_ShouldGroupIdsByShard() {
+        // Arrange
+        when(propertyRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Property> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                assertThat(new ShardRouter(3, RANGE_SIZE).shardFor((Long) id)).isEqualTo(ShardContext.current());
+                found.add(createTestProperty((Long) id, "Calle"));
+            }
+            return found;
+        });
+
+        // Act
+        List<Property> result = propertyService.getPropertiesByIds(Arrays.asList(2001L, 5L, 1500L, 7L, 99999L));
+
+        // Assert
+        assertThat(result).extracting(Property::getId).containsExactlyInAnyOrder(5L, 7L, 1500L, 2001L);
+        verify(propertyRepository, times(3)).findAllById(anyIterable());
+    }
+
+    @Test
+    void saveProperty_WithNewProperty_ShouldDistributeAcrossShards() {
+        // Arrange
+        List<Integer> shardsUsed = new ArrayList<>();
+        when(propertyRepository.save(any(Property.class))).thenAnswer(invocation -> {
+            shardsUsed.add(ShardContext.current());
+            return invocation.getArgument(0);
+        });
+
+        // Act
+        for (int i = 0; i < 4; i++) {
+            propertyService.saveProperty(createTestProperty(null, "Calle " + i));
+        }
+
+        // Assert
+        assertThat(shardsUsed).containsExactly(0, 1, 2, 0);
+    }
+
+    @Test
+    void saveProperty_WithExistingProperty_ShouldUseTheOwningShard() {
+        // Arrange
+        Property property = createTestProperty(2002L, "Calle 456");
+        List<Integer> shardsUsed = new ArrayList<>();
+        when(propertyRepository.save(property)).thenAnswer(invocation -> {
+            shardsUsed.add(ShardContext.current());
+            return property;
+        });
+
+        // Act
+        propertyService.saveProperty(property);
+
+        // Assert
+        assertThat(shardsUsed).containsExactly(2);
+    }
+
+    @Test
+    void deleteProperty_WithIdOutsideAllShards_ShouldThrowException() {
+        // Act & Assert
+        assertThatThrownBy(() -> propertyService.deleteProperty(0L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Property not found with id 0");
+
+        verify(propertyRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    void deleteProperty_WhenPropertyExists_ShouldDeleteOnOwningShard() {
+        // Arrange
+        List<Integer> shardsUsed = new ArrayList<>();
+        when(propertyRepository.existsById(1500L)).thenReturn(true);
+        doAnswer(invocation -> shardsUsed.add(ShardContext.current())).when(propertyRepository).deleteById(1500L);
+
+        // Act
+        propertyService.deleteProperty(1500L);
+
+        // Assert
+        assertThat(shardsUsed).containsExactly(1);
+    }
+
+    @Test
+    void mergeSorted_ShouldInterleaveSortedLists() {
+        // Act
+        List<Integer> merged = ShardedPropertyService.mergeSorted(
+                Arrays.asList(Arrays.asList(1, 4, 9), Arrays.asList(), Arrays.asList(2, 3, 10)),
+                Comparator.naturalOrder());
+
+        // Assert
+        assertThat(merged).containsExactly(1, 2, 3, 4, 9, 10);
+    }
+
+    private Property createTestProperty(Long id, String address) {
+        Property property = new Property();
+        property.setId(id);
+        property.setAddress(address);
+        property.setPrice(100000.0);
+        property.setSize(50.0);
+        property.setDescription("Casa bonita");
+        return property;
+    }
+}
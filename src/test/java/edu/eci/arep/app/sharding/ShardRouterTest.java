@@ -0,0 +1,50 @@
+package edu.eci.arep.app.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRouterTest {
+
+    private final ShardRouter shardRouter = new ShardRouter(3, 1000);
+
+    @Test
+    void shardFor_ShouldRouteIdsByRange() {
+        assertThat(shardRouter.shardFor(1)).isEqualTo(0);
+        assertThat(shardRouter.shardFor(1000)).isEqualTo(0);
+        assertThat(shardRouter.shardFor(1001)).isEqualTo(1);
+        assertThat(shardRouter.shardFor(2500)).isEqualTo(2);
+        assertThat(shardRouter.shardFor(3000)).isEqualTo(2);
+    }
+
+    @Test
+    void shardFor_WithIdOutsideAllRanges_ShouldReturnNoShard() {
+        assertThat(shardRouter.shardFor(0)).isEqualTo(ShardRouter.NO_SHARD);
+        assertThat(shardRouter.shardFor(-5)).isEqualTo(ShardRouter.NO_SHARD);
+        assertThat(shardRouter.shardFor(3001)).isEqualTo(ShardRouter.NO_SHARD);
+    }
+
+    @Test
+    void firstAndLastIdOf_ShouldDelimitEachShardRange() {
+        assertThat(shardRouter.firstIdOf(1)).isEqualTo(1001);
+        assertThat(shardRouter.lastIdOf(1)).isEqualTo(2000);
+        assertThat(shardRouter.shardFor(shardRouter.firstIdOf(2))).isEqualTo(2);
+    }
+
+    @Test
+    void shardForInsert_ShouldRoundRobinAcrossShards() {
+        assertThat(shardRouter.shardForInsert()).isEqualTo(0);
+        assertThat(shardRouter.shardForInsert()).isEqualTo(1);
+        assertThat(shardRouter.shardForInsert()).isEqualTo(2);
+        assertThat(shardRouter.shardForInsert()).isEqualTo(0);
+    }
+
+    @Test
+    void constructor_WithInvalidConfiguration_ShouldThrowException() {
+        assertThatThrownBy(() -> new ShardRouter(0, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ShardRouter(4, Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,141 @@
+package edu.eci.arep.app.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRoutingDataSourceTest {
+
+    private static final long RANGE_SIZE = 1000;
+
+    private final ShardRouter shardRouter = new ShardRouter(2, RANGE_SIZE);
+    private DataSource shard0;
+    private DataSource shard1;
+    private ShardRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        shard0 = inMemoryShard();
+        shard1 = inMemoryShard();
+        ShardSchemaInitializer.initialize(shard0, 0, shardRouter);
+        ShardSchemaInitializer.initialize(shard1, 1, shardRouter);
+        routingDataSource = new ShardRoutingDataSource(Arrays.asList(shard0, shard1));
+        routingDataSource.requireShardContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+    }
+
+    @Test
+    void insert_ShouldGenerateIdsInsideEachShardRange() {
+        // Act
+        long id0 = ShardContext.callOn(0, () -> insert("Calle 1"));
+        long id1 = ShardContext.callOn(1, () -> insert("Calle 2"));
+        long id1Again = ShardContext.callOn(1, () -> insert("Calle 3"));
+
+        // Assert
+        assertThat(id0).isEqualTo(1);
+        assertThat(id1).isEqualTo(shardRouter.firstIdOf(1));
+        assertThat(id1Again).isEqualTo(shardRouter.firstIdOf(1) + 1);
+        assertThat(shardRouter.shardFor(id1Again)).isEqualTo(1);
+    }
+
+    @Test
+    void insert_ShouldStoreRowsOnlyInTheSelectedShard() {
+        // Act
+        long id0 = ShardContext.callOn(0, () -> insert("Calle 1"));
+        long id1 = ShardContext.callOn(1, () -> insert("Calle 2"));
+
+        // Assert
+        assertThat(idsIn(shard0)).containsExactly(id0);
+        assertThat(idsIn(shard1)).containsExactly(id1);
+    }
+
+    @Test
+    void initialize_WhenShardWasEmptied_ShouldNotReuseIssuedIds() {
+        // Arrange
+        long lastIssued = ShardContext.callOn(1, () -> {
+            insert("Calle 1");
+            return insert("Calle 2");
+        });
+        new JdbcTemplate(shard1).update("DELETE FROM properties");
+
+        // Act
+        ShardSchemaInitializer.initialize(shard1, 1, shardRouter);
+        long next = ShardContext.callOn(1, () -> insert("Calle 3"));
+
+        // Assert
+        assertThat(next).isGreaterThan(lastIssued);
+    }
+
+    @Test
+    void initialize_WhenShardContainsIdsOutsideItsRange_ShouldThrowException() {
+        // Arrange
+        new JdbcTemplate(shard0).update(
+                "INSERT INTO properties (id, address, price, size) VALUES (?, 'Calle', 1, 1)", RANGE_SIZE + 5);
+
+        // Act & Assert
+        assertThatThrownBy(() -> ShardSchemaInitializer.initialize(shard0, 0, shardRouter))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outside its range");
+    }
+
+    @Test
+    void initialize_WhenShardContainsIdsBelowItsRange_ShouldThrowException() {
+        // Arrange
+        new JdbcTemplate(shard1).update(
+                "INSERT INTO properties (id, address, price, size) VALUES (?, 'Calle', 1, 1)", 5L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> ShardSchemaInitializer.initialize(shard1, 1, shardRouter))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("outside its range");
+    }
+
+    @Test
+    void getConnection_WithoutShardContext_ShouldFailFast() {
+        assertThatThrownBy(() -> routingDataSource.getConnection())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No shard selected");
+    }
+
+    private long insert(String address) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        new JdbcTemplate(routingDataSource).update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO properties (address, price, size) VALUES (?, 100000, 50)",
+                    Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, address);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private static List<Long> idsIn(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("SELECT id FROM properties ORDER BY id", Long.class);
+    }
+
+    private static DataSource inMemoryShard() {
+        return DataSourceBuilder.create()
+                .url("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+                .username("sa")
+                .password("")
+                .build();
+    }
+}